@@ -6,19 +6,26 @@ import java.util.concurrent.TimeUnit;
 import com.riyuner.model.StockData;
 import com.riyuner.service.ChartService;
 import com.riyuner.service.DisplayService;
+import com.riyuner.service.FeedPipeline;
 import com.riyuner.service.MarketStateService;
 import com.riyuner.service.StockDataService;
 import com.riyuner.util.DisplayUtil;
 
 import io.quarkus.picocli.runtime.annotations.TopCommand;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
 
 @TopCommand
 @Command(name = "idx", mixinStandardHelpOptions = true, version = "1.0",
         description = "CLI application for IDX stock information")
 public class IdxStockCommand implements Callable<Integer> {
 
+    @Spec
+    CommandSpec spec;
+
     @Option(names = {"-s", "--symbol"}, description = "Stock symbol (e.g., BBCA)", required = true)
     String symbol;
 
@@ -31,6 +38,13 @@ public class IdxStockCommand implements Callable<Integer> {
     @Option(names = {"-n", "--no-color"}, description = "Disable colored output")
     boolean noColor;
 
+    // Header clock and market countdown redraw at this rate, independent of the fetch interval
+    private static final long FRAME_INTERVAL_MILLIS = 1000;
+    // refreshHolidays() is a no-op until its cache or failure backoff expires
+    private static final long HOLIDAY_CHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Object terminalLock = new Object();
+    private boolean screenRestored;
     private String stockColor;
     private int terminalWidth;
 
@@ -50,41 +64,48 @@ public class IdxStockCommand implements Callable<Integer> {
         this.stockDataService = new StockDataService(noColor);
         this.chartService = new ChartService(terminalWidth, stockColor, noColor);
         this.displayService = new DisplayService(terminalWidth, stockColor, noColor, 
-            marketStateService, stockDataService);
+            marketStateService, stockDataService, chartService);
     }
 
-    private void fetchAndDisplayData() {
+    private void renderFrame(StockData latest) {
         final StringBuilder display = new StringBuilder();
         displayService.updateDisplay(display, symbol);
-        
-        try {
-            StockData stockData = stockDataService.fetchStockData(symbol);
-            updateDisplayWithStockData(display, stockData);
+
+        if (latest != null) {
+            displayService.appendStockData(display, latest, detailed);
+        }
+        // A frame that outlives the pipeline's shutdown wait must not draw over the restored screen
+        synchronized (terminalLock) {
+            if (screenRestored) return;
             System.out.print(display);
-        } catch (Exception e) {
-            System.err.println(DisplayUtil.color(DisplayUtil.RED, 
-                "Error updating data: " + e.getMessage(), noColor));
+            System.out.flush();
         }
     }
 
-    private void updateDisplayWithStockData(StringBuilder display, StockData stockData) {
-        displayService.getCurrencyDisplay(display, stockData);
-        
-        if (detailed) {
-            displayService.displayDetailedInfo(display);
+    private void reportError(Exception e) {
+        synchronized (terminalLock) {
+            if (screenRestored) return;
+            System.err.println(DisplayUtil.color(DisplayUtil.RED, 
+                "Error updating data: " + e.getMessage(), noColor));
         }
+    }
 
-        if (stockDataService.hasEnoughData()) {
-            display.append("Price Chart (Last 30 updates):\n");
-            display.append(chartService.generateChart(
-                stockDataService.getPriceHistory(), 
-                stockDataService.getTimeHistory()));
-            display.append("\n");
+    private void restoreScreen() {
+        synchronized (terminalLock) {
+            if (screenRestored) return;
+            screenRestored = true;
+            System.out.print("\u001B[?1049l");
+            System.out.flush();
         }
     }
 
     @Override
     public Integer call() {
+        if (interval < 1) {
+            throw new ParameterException(spec.commandLine(),
+                "Invalid value for option '--interval': must be at least 1 second, but was " + interval);
+        }
+
         try {
             if (!symbol.endsWith(":IDX")) {
                 symbol = symbol + ":IDX";
@@ -92,27 +113,40 @@ public class IdxStockCommand implements Callable<Integer> {
 
             initializeServices();
 
-            System.out.print("\u001B[?1049h");
-            System.out.println(DisplayUtil.color(DisplayUtil.YELLOW, 
-                "Starting live data feed... Press Ctrl+C to exit", noColor));
+            FeedPipeline pipeline = new FeedPipeline(
+                () -> stockDataService.fetchStockData(symbol),
+                stockDataService::updatePriceHistory,
+                this::renderFrame,
+                this::reportError);
+            pipeline.addBackgroundTask(marketStateService::refreshHolidays, HOLIDAY_CHECK_INTERVAL_MILLIS);
+
+            // Registered before entering the alternate screen, so Ctrl+C at any point restores it
+            Thread shutdownHook = new Thread(() -> {
+                pipeline.close();
+                restoreScreen();
+            }, "idx-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+            synchronized (terminalLock) {
+                if (screenRestored) return 0;
+                System.out.print("\u001B[?1049h");
+                System.out.println(DisplayUtil.color(DisplayUtil.YELLOW, 
+                    "Starting live data feed... Press Ctrl+C to exit", noColor));
+            }
             TimeUnit.SECONDS.sleep(1);
 
-            while (true) {
-                try {
-                    fetchAndDisplayData();
-                } catch (Exception e) {
-                    System.err.println(DisplayUtil.color(DisplayUtil.RED, 
-                        "Error updating data: " + e.getMessage(), noColor));
-                }
-                TimeUnit.SECONDS.sleep(interval);
+            try (pipeline) {
+                pipeline.start(TimeUnit.SECONDS.toMillis(interval), FRAME_INTERVAL_MILLIS);
+                pipeline.awaitTermination();
             }
+            return 0;
 
         } catch (Exception e) {
             System.err.println(DisplayUtil.color(DisplayUtil.RED, 
                 "Fatal error: " + e.getMessage(), noColor));
             return 1;
         } finally {
-            System.out.print("\u001B[?1049l");
+            restoreScreen();
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,19 +1,80 @@
 package com.riyuner.model;
 
+import java.time.LocalDateTime;
+
 public class StockData {
     private final double price;
-    private final String change;
+    private final double change;
+    private final double changePercent;
+    private final double previousClose;
+    private final double dayLow;
+    private final double dayHigh;
+    private final long volume;
+    private final long avgVolume;
+    private final double marketCap;
+    private final LocalDateTime fetchedAt;
 
-    public StockData(double price, String change) {
+    public StockData(double price, double change, double changePercent, double previousClose,
+                     double dayLow, double dayHigh, long volume, long avgVolume, double marketCap,
+                     LocalDateTime fetchedAt) {
         this.price = price;
         this.change = change;
+        this.changePercent = changePercent;
+        this.previousClose = previousClose;
+        this.dayLow = dayLow;
+        this.dayHigh = dayHigh;
+        this.volume = volume;
+        this.avgVolume = avgVolume;
+        this.marketCap = marketCap;
+        this.fetchedAt = fetchedAt;
     }
 
     public double getPrice() {
         return price;
     }
 
-    public String getChange() {
+    public double getChange() {
         return change;
     }
-} 
\ No newline at end of file
+
+    public double getChangePercent() {
+        return changePercent;
+    }
+
+    public double getPreviousClose() {
+        return previousClose;
+    }
+
+    public double getDayLow() {
+        return dayLow;
+    }
+
+    public double getDayHigh() {
+        return dayHigh;
+    }
+
+    public long getVolume() {
+        return volume;
+    }
+
+    public long getAvgVolume() {
+        return avgVolume;
+    }
+
+    public double getMarketCap() {
+        return marketCap;
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+
+    // Missing values are stored as NaN (or -1 for volumes) when the quote page omits them
+    public boolean hasChange() {
+        return !Double.isNaN(change) && !Double.isNaN(changePercent);
+    }
+
+    public boolean hasDayRange() {
+        return !Double.isNaN(dayLow) && !Double.isNaN(dayHigh);
+    }
+}
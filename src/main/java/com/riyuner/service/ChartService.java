@@ -1,26 +1,41 @@
 package com.riyuner.service;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import com.riyuner.util.DisplayUtil;
+import com.riyuner.util.FormatUtil;
 
 public class ChartService {
     private static final int CHART_HEIGHT = 10;
     
     private final int terminalWidth;
-    private final String stockColor;
     private final boolean noColor;
+    // Plot symbols are colored once instead of per grid cell
+    private final String coloredPoint;
+    private final String coloredLine;
 
     public ChartService(int terminalWidth, String stockColor, boolean noColor) {
         this.terminalWidth = terminalWidth;
-        this.stockColor = stockColor;
         this.noColor = noColor;
+        this.coloredPoint = DisplayUtil.color(stockColor, "•", noColor);
+        this.coloredLine = DisplayUtil.color(stockColor, "│", noColor);
     }
 
     public String generateChart(List<Double> priceHistory, List<LocalDateTime> timeHistory) {
-        if (priceHistory.size() < 2) return "Collecting data...";
+        StringBuilder chart = new StringBuilder();
+        appendChart(chart, priceHistory, timeHistory);
+        return chart.toString();
+    }
+
+    /**
+     * Appends the chart straight into {@code display}, the frame being built.
+     */
+    public void appendChart(StringBuilder display, List<Double> priceHistory, List<LocalDateTime> timeHistory) {
+        if (priceHistory.size() < 2) {
+            display.append("Collecting data...");
+            return;
+        }
 
         double min = priceHistory.stream().mapToDouble(v -> v).min().getAsDouble();
         double max = priceHistory.stream().mapToDouble(v -> v).max().getAsDouble();
@@ -32,7 +47,9 @@ public class ChartService {
         char[][] grid = initializeChartGrid(dataPoints);
         plotChartPoints(grid, dataPoints, priceHistory, min, range);
         
-        return buildChartString(grid, dataPoints, min, range, timeHistory);
+        buildChartBody(display, grid, dataPoints, min, range);
+        buildChartAxis(display, dataPoints);
+        buildTimeMarkers(display, dataPoints, timeHistory);
     }
 
     private char[][] initializeChartGrid(int dataPoints) {
@@ -68,30 +85,26 @@ public class ChartService {
         }
     }
 
-    private String buildChartString(char[][] grid, int dataPoints, double min, double range, List<LocalDateTime> timeHistory) {
-        StringBuilder chart = new StringBuilder();
-        buildChartBody(chart, grid, dataPoints, min, range);
-        buildChartAxis(chart, dataPoints);
-        buildTimeMarkers(chart, dataPoints, timeHistory);
-        return chart.toString();
-    }
-
     private void buildChartBody(StringBuilder chart, char[][] grid, int dataPoints, double min, double range) {
         for (int i = CHART_HEIGHT - 1; i >= 0; i--) {
-            String priceString = String.format("%.0f", min + (range * i / (CHART_HEIGHT - 1)));
-            chart.append(DisplayUtil.color(DisplayUtil.BLUE, String.format("%8s |", priceString), noColor));
+            DisplayUtil.beginColor(chart, DisplayUtil.BLUE, noColor);
+            FormatUtil.appendRounded(chart, min + (range * i / (CHART_HEIGHT - 1)), 8).append(" |");
+            DisplayUtil.endColor(chart, noColor);
             for (int j = 0; j < dataPoints; j++) {
-                chart.append(formatChartSymbol(grid[i][j]));
+                appendChartSymbol(chart, grid[i][j]);
             }
             chart.append("\n");
         }
     }
 
-    private String formatChartSymbol(char c) {
-        if (c == '•' || c == '│') {
-            return DisplayUtil.color(stockColor, String.valueOf(c), noColor);
+    private void appendChartSymbol(StringBuilder chart, char c) {
+        if (c == '•') {
+            chart.append(coloredPoint);
+        } else if (c == '│') {
+            chart.append(coloredLine);
+        } else {
+            chart.append(c);
         }
-        return String.valueOf(c);
     }
 
     private void buildChartAxis(StringBuilder chart, int dataPoints) {
@@ -101,13 +114,12 @@ public class ChartService {
     }
 
     private void buildTimeMarkers(StringBuilder chart, int dataPoints, List<LocalDateTime> timeHistory) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss");
         int timeMarkInterval = Math.max(1, dataPoints / 5);
         
         for (int i = 0; i < dataPoints; i++) {
             if (i % timeMarkInterval == 0) {
                 int historyIndex = timeHistory.size() - dataPoints + i;
-                String time = timeHistory.get(historyIndex).format(formatter);
+                String time = timeHistory.get(historyIndex).format(FormatUtil.TIME);
                 chart.append(DisplayUtil.color(DisplayUtil.YELLOW, "|", noColor));
                 chart.append(DisplayUtil.color(DisplayUtil.BLUE, time, noColor));
                 i += time.length() - 1;
@@ -1,26 +1,42 @@
 package com.riyuner.service;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import com.riyuner.model.StockData;
 import com.riyuner.util.DisplayUtil;
+import com.riyuner.util.FormatUtil;
 
 public class DisplayService {
+    private static final int DETAIL_LABEL_WIDTH = 16;
+    private static final String MISSING_DETAIL = "-";
+
     private final int terminalWidth;
     private final String stockColor;
     private final boolean noColor;
     private final MarketStateService marketStateService;
     private final StockDataService stockDataService;
+    private final ChartService chartService;
+    private final Clock clock;
     private boolean isFirstRun = true;
 
     public DisplayService(int terminalWidth, String stockColor, boolean noColor, 
-                         MarketStateService marketStateService, StockDataService stockDataService) {
+                         MarketStateService marketStateService, StockDataService stockDataService,
+                         ChartService chartService) {
+        this(terminalWidth, stockColor, noColor, marketStateService, stockDataService, chartService,
+            Clock.systemDefaultZone());
+    }
+
+    public DisplayService(int terminalWidth, String stockColor, boolean noColor, 
+                         MarketStateService marketStateService, StockDataService stockDataService,
+                         ChartService chartService, Clock clock) {
         this.terminalWidth = terminalWidth;
         this.stockColor = stockColor;
         this.noColor = noColor;
         this.marketStateService = marketStateService;
         this.stockDataService = stockDataService;
+        this.chartService = chartService;
+        this.clock = clock;
     }
 
     public void printHeader(StringBuilder buffer, String symbol) {
@@ -43,28 +59,33 @@ public class DisplayService {
     }
 
     private String formatTimestamp() {
-        return "Time: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        return "Time: " + LocalDateTime.now(clock).format(FormatUtil.DATE_TIME);
     }
 
     public void getCurrencyDisplay(StringBuilder display, StockData stockData) {
         String priceColor = stockDataService.determinePriceColor(stockData.getPrice());
-        display.append(DisplayUtil.CLEAR_LINE)
-               .append(DisplayUtil.color(priceColor, 
-                   "Price: Rp " + stockDataService.formatCurrency(stockData.getPrice()), noColor))
-               .append("\n");
+        display.append(DisplayUtil.CLEAR_LINE);
+        DisplayUtil.beginColor(display, priceColor, noColor).append("Price: Rp ");
+        FormatUtil.appendIdr(display, stockData.getPrice());
+        DisplayUtil.endColor(display, noColor).append("\n");
         
-        if (!stockData.getChange().isEmpty()) {
-            display.append(DisplayUtil.CLEAR_LINE)
-                   .append(DisplayUtil.color(stockData.getChange().contains("+") ? 
-                       DisplayUtil.GREEN : DisplayUtil.RED, 
-                       "Change: " + stockData.getChange(), noColor))
-                   .append("\n\n");
+        if (stockData.hasChange()) {
+            // Unchanged prices are unsigned, as on the quote page
+            String sign = stockData.getChange() > 0 ? "+" : stockData.getChange() < 0 ? "-" : "";
+            display.append(DisplayUtil.CLEAR_LINE);
+            DisplayUtil.beginColor(display, stockData.getChange() >= 0 ? 
+                DisplayUtil.GREEN : DisplayUtil.RED, noColor).append("Change: ").append(sign);
+            FormatUtil.appendIdr(display, Math.abs(stockData.getChange()))
+                      .append(" (").append(sign)
+                      .append(FormatUtil.formatDecimal(Math.abs(stockData.getChangePercent()))).append("%)");
+            DisplayUtil.endColor(display, noColor).append("\n\n");
         }
     }
 
     public void updateDisplay(StringBuilder display, String symbol) {
         if (isFirstRun) {
-            DisplayUtil.clearScreen();
+            // Part of the frame so that callers control when anything reaches the terminal
+            display.append(DisplayUtil.CLEAR_SCREEN);
             isFirstRun = false;
         } else {
             display.append(DisplayUtil.CURSOR_HOME);
@@ -72,8 +93,76 @@ public class DisplayService {
         printHeader(display, symbol);
     }
 
-    public void displayDetailedInfo(StringBuilder display) {
-        // Implementation for detailed information display
-        // This would be implemented based on your needs
+    /**
+     * Appends everything below the header for one tick: price and change, the
+     * detailed block when requested, and the chart once there is enough history.
+     */
+    public void appendStockData(StringBuilder display, StockData stockData, boolean detailed) {
+        getCurrencyDisplay(display, stockData);
+        
+        if (detailed) {
+            displayDetailedInfo(display, stockData);
+        }
+
+        if (stockDataService.hasEnoughData()) {
+            display.append("Price Chart (Last 30 updates):\n");
+            chartService.appendChart(display,
+                stockDataService.getPriceHistory(), 
+                stockDataService.getTimeHistory());
+            display.append("\n");
+        }
+    }
+
+    public void displayDetailedInfo(StringBuilder display, StockData stockData) {
+        appendDetailLabel(display, "Previous Close:");
+        if (Double.isNaN(stockData.getPreviousClose())) {
+            display.append(MISSING_DETAIL);
+        } else {
+            FormatUtil.appendIdr(display.append("Rp "), stockData.getPreviousClose());
+        }
+        display.append("\n");
+
+        appendDetailLabel(display, "Day Range:");
+        if (!stockData.hasDayRange()) {
+            display.append(MISSING_DETAIL);
+        } else {
+            FormatUtil.appendIdr(display.append("Rp "), stockData.getDayLow());
+            FormatUtil.appendIdr(display.append(" - Rp "), stockData.getDayHigh());
+        }
+        display.append("\n");
+
+        appendDetailLabel(display, "Volume:");
+        appendVolume(display, stockData.getVolume());
+
+        appendDetailLabel(display, "Avg Volume:");
+        appendVolume(display, stockData.getAvgVolume());
+
+        appendDetailLabel(display, "Market Cap:");
+        if (Double.isNaN(stockData.getMarketCap())) {
+            display.append(MISSING_DETAIL);
+        } else {
+            FormatUtil.appendCompact(display.append("Rp "), stockData.getMarketCap());
+        }
+        display.append("\n");
+
+        appendDetailLabel(display, "Updated:");
+        FormatUtil.TIME.formatTo(stockData.getFetchedAt(), display);
+        display.append("\n\n");
+    }
+
+    private void appendDetailLabel(StringBuilder display, String label) {
+        display.append(DisplayUtil.CLEAR_LINE);
+        DisplayUtil.beginColor(display, DisplayUtil.BLUE, noColor);
+        FormatUtil.appendPaddedRight(display, label, DETAIL_LABEL_WIDTH);
+        DisplayUtil.endColor(display, noColor);
+    }
+
+    private void appendVolume(StringBuilder display, long volume) {
+        if (volume < 0) {
+            display.append(MISSING_DETAIL);
+        } else {
+            FormatUtil.appendCompact(display, volume);
+        }
+        display.append("\n");
     }
-} 
\ No newline at end of file
+}
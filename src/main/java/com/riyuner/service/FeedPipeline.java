@@ -0,0 +1,170 @@
+package com.riyuner.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import com.riyuner.model.StockData;
+
+/**
+ * Runs fetching and rendering as two independent stages connected by a bounded
+ * tick queue. The fetch stage publishes a tick every refresh interval; the
+ * render stage drains whatever has arrived and redraws at a fixed frame rate,
+ * so a slow scrape never stalls the header clock or market countdown.
+ */
+public class FeedPipeline implements AutoCloseable {
+    private static final int QUEUE_CAPACITY = 16;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1000;
+
+    @FunctionalInterface
+    public interface Fetcher {
+        StockData fetch() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    private final BlockingQueue<StockData> ticks = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private final Fetcher fetcher;
+    private final Consumer<StockData> tickHandler;
+    private final Consumer<StockData> frameRenderer;
+    private final Consumer<Exception> errorHandler;
+
+    private final List<Task> backgroundTasks = new ArrayList<>();
+    private final List<Long> backgroundIntervals = new ArrayList<>();
+
+    private ScheduledExecutorService fetchStage;
+    private ScheduledExecutorService renderStage;
+    private ScheduledExecutorService backgroundStage;
+    private StockData latest;
+
+    /**
+     * @param fetcher       produces one tick; runs on the fetch stage
+     * @param tickHandler   consumes each tick in arrival order; runs on the render stage
+     * @param frameRenderer draws a frame from the latest tick, or {@code null} before the first one
+     * @param errorHandler  reports fetch or render failures without stopping the pipeline
+     */
+    public FeedPipeline(Fetcher fetcher, Consumer<StockData> tickHandler,
+                        Consumer<StockData> frameRenderer, Consumer<Exception> errorHandler) {
+        this.fetcher = fetcher;
+        this.tickHandler = tickHandler;
+        this.frameRenderer = frameRenderer;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Registers a periodic task, such as a cache refresh, that runs on its own
+     * thread so its I/O never delays a quote fetch or a frame. Failures go to
+     * the error handler. Must be called before {@link #start(long, long)}.
+     */
+    public void addBackgroundTask(Task task, long intervalMillis) {
+        backgroundTasks.add(task);
+        backgroundIntervals.add(intervalMillis);
+    }
+
+    public void start(long fetchIntervalMillis, long frameIntervalMillis) {
+        fetchStage = Executors.newSingleThreadScheduledExecutor(stageThread("idx-fetch"));
+        renderStage = Executors.newSingleThreadScheduledExecutor(stageThread("idx-render"));
+
+        fetchStage.scheduleWithFixedDelay(this::fetchTick, 0, fetchIntervalMillis, TimeUnit.MILLISECONDS);
+        renderStage.scheduleAtFixedRate(this::renderFrame, 0, frameIntervalMillis, TimeUnit.MILLISECONDS);
+
+        if (!backgroundTasks.isEmpty()) {
+            backgroundStage = Executors.newSingleThreadScheduledExecutor(stageThread("idx-background"));
+            for (int i = 0; i < backgroundTasks.size(); i++) {
+                Task task = backgroundTasks.get(i);
+                backgroundStage.scheduleWithFixedDelay(() -> runBackground(task),
+                    0, backgroundIntervals.get(i), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    public void awaitTermination() throws InterruptedException {
+        stopped.await();
+    }
+
+    void runBackground(Task task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    void fetchTick() {
+        try {
+            publish(fetcher.fetch());
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    // Drops the oldest pending tick when the renderer falls behind
+    void publish(StockData tick) {
+        while (!ticks.offer(tick)) {
+            ticks.poll();
+        }
+    }
+
+    void renderFrame() {
+        try {
+            List<StockData> pending = new ArrayList<>();
+            ticks.drainTo(pending);
+            for (StockData tick : pending) {
+                tickHandler.accept(tick);
+                latest = tick;
+            }
+            frameRenderer.accept(latest);
+        } catch (Exception e) {
+            // An escaping exception would cancel the scheduled render task
+            errorHandler.accept(e);
+        }
+    }
+
+    private static ThreadFactory stageThread(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Stops both stages and waits briefly for an in-flight frame to finish. A
+     * frame stuck past the wait is only interrupted, so renderers must still
+     * guard their own output against drawing after shutdown. Safe to call more
+     * than once and from a shutdown hook.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) return;
+
+        try {
+            if (fetchStage != null) fetchStage.shutdownNow();
+            if (backgroundStage != null) backgroundStage.shutdownNow();
+            if (renderStage != null) {
+                renderStage.shutdown();
+                if (!renderStage.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    renderStage.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopped.countDown();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.riyuner.service;
 
+import java.io.IOException;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -21,16 +23,25 @@ public class MarketStateService {
     private static final String HOLIDAY_API_URL = "https://date.nager.at/api/v3/PublicHolidays/%d/ID";
     private static final long HOLIDAY_CACHE_DURATION = TimeUnit.HOURS.toMillis(12);
 
-    private final Set<LocalDate> holidayCache = new HashSet<>();
-    private long lastHolidayFetch = 0;
+    private static final long HOLIDAY_RETRY_MIN = TimeUnit.MINUTES.toMillis(1);
+
+    private volatile Set<LocalDate> holidayCache = Set.of();
+    private long nextHolidayFetch = 0;
+    private long holidayRetryDelay = HOLIDAY_RETRY_MIN;
     private final boolean noColor;
+    private final Clock clock;
 
     public MarketStateService(boolean noColor) {
+        this(noColor, Clock.systemDefaultZone());
+    }
+
+    public MarketStateService(boolean noColor, Clock clock) {
         this.noColor = noColor;
+        this.clock = clock;
     }
 
     public String getMarketStateInfo() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
         LocalDate today = now.toLocalDate();
         
         if (isHoliday(today)) {
@@ -48,54 +59,65 @@ public class MarketStateService {
         return getClosedMessage(now);
     }
 
-    private void updateHolidayCache() {
-        if (isCacheValid()) return;
+    /**
+     * Refreshes the holiday cache from the holiday API when it is stale. Blocks
+     * on network I/O, so it runs as a background task rather than per frame;
+     * after a failure it backs off instead of retrying on every call.
+     *
+     * @throws IOException when the refresh fails; the previous cache is kept
+     */
+    public void refreshHolidays() throws IOException {
+        long now = clock.millis();
+        if (now < nextHolidayFetch) return;
 
         try {
-            int currentYear = LocalDate.now().getYear();
-            fetchHolidaysForYear(currentYear);
-            fetchHolidaysForYear(currentYear + 1);
-            lastHolidayFetch = System.currentTimeMillis();
+            int currentYear = LocalDate.now(clock).getYear();
+            Set<LocalDate> holidays = new HashSet<>();
+            fetchHolidaysForYear(currentYear, holidays);
+            fetchHolidaysForYear(currentYear + 1, holidays);
+            holidayCache = Set.copyOf(holidays);
+            holidayRetryDelay = HOLIDAY_RETRY_MIN;
+            nextHolidayFetch = now + HOLIDAY_CACHE_DURATION;
         } catch (Exception e) {
-            System.err.println(DisplayUtil.color(DisplayUtil.RED, 
-                "Warning: Failed to fetch holiday data: " + e.getMessage(), noColor));
+            nextHolidayFetch = now + holidayRetryDelay;
+            holidayRetryDelay = Math.min(holidayRetryDelay * 2, HOLIDAY_CACHE_DURATION);
+            throw new IOException("Failed to fetch holiday data: " + e.getMessage(), e);
         }
     }
 
-    private boolean isCacheValid() {
-        long now = System.currentTimeMillis();
-        return now - lastHolidayFetch < HOLIDAY_CACHE_DURATION && !holidayCache.isEmpty();
+    /**
+     * Replaces the cached holiday calendar with a known one and treats it as
+     * fresh, e.g. to render deterministic frames in tests.
+     */
+    public void useHolidays(Set<LocalDate> holidays) {
+        holidayCache = Set.copyOf(holidays);
+        nextHolidayFetch = clock.millis() + HOLIDAY_CACHE_DURATION;
     }
 
-    private void fetchHolidaysForYear(int year) {
-        try {
-            String url = String.format(HOLIDAY_API_URL, year);
-            Document doc = Jsoup.connect(url)
-                    .ignoreContentType(true)
-                    .userAgent("Mozilla/5.0")
-                    .get();
+    private void fetchHolidaysForYear(int year, Set<LocalDate> holidays) throws IOException {
+        String url = String.format(HOLIDAY_API_URL, year);
+        Document doc = Jsoup.connect(url)
+                .ignoreContentType(true)
+                .userAgent("Mozilla/5.0")
+                .get();
 
-            parseAndAddHolidays(doc.text());
-        } catch (Exception e) {
-            System.err.println(DisplayUtil.color(DisplayUtil.RED, 
-                "Warning: Failed to fetch holidays for year " + year + ": " + e.getMessage(), noColor));
-        }
+        parseAndAddHolidays(doc.text(), holidays);
     }
 
-    private void parseAndAddHolidays(String jsonResponse) {
-        String[] holidays = jsonResponse.split("\"date\":\"");
-        for (int i = 1; i < holidays.length; i++) {
+    private void parseAndAddHolidays(String jsonResponse, Set<LocalDate> holidays) {
+        String[] entries = jsonResponse.split("\"date\":\"");
+        for (int i = 1; i < entries.length; i++) {
             try {
-                String dateStr = holidays[i].substring(0, 10);
-                holidayCache.add(LocalDate.parse(dateStr));
+                String dateStr = entries[i].substring(0, 10);
+                holidays.add(LocalDate.parse(dateStr));
             } catch (Exception e) {
                 // Skip invalid dates
             }
         }
     }
 
+    // Reads only the cached set, which is replaced whole by refreshHolidays()
     private boolean isHoliday(LocalDate date) {
-        updateHolidayCache();
         return holidayCache.contains(date);
     }
 
@@ -1,24 +1,28 @@
 package com.riyuner.service;
 
 import java.io.IOException;
-import java.text.NumberFormat;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.jsoup.select.Elements;
+import org.jsoup.nodes.Element;
 
 import com.riyuner.model.StockData;
 import com.riyuner.util.DisplayUtil;
+import com.riyuner.util.FormatUtil;
 
 public class StockDataService {
     private static final String GOOGLE_FINANCE_URL = "https://www.google.com/finance/quote/";
     private static final int MAX_HISTORY_SIZE = 30;
 
+    // Key statistics rows on the quote page: label/value pairs
+    private static final String STAT_ROW_SELECTOR = "div.gyFHrc";
+    private static final String STAT_LABEL_SELECTOR = "div.mfs7Fc";
+    private static final String STAT_VALUE_SELECTOR = "div.P6K39c";
+
     private final List<Double> priceHistory = new ArrayList<>();
     private final List<LocalDateTime> timeHistory = new ArrayList<>();
     private double previousPrice = 0;
@@ -37,31 +41,120 @@ public class StockDataService {
                 .userAgent("Mozilla/5.0")
                 .get();
 
-        Elements priceElement = doc.select("div[data-last-price]");
-        if (priceElement.isEmpty()) {
+        return parseStockData(doc, symbol, LocalDateTime.now());
+    }
+
+    /**
+     * Extracts every quote field from an already fetched page in a single pass,
+     * so the detailed view needs no extra requests.
+     */
+    public StockData parseStockData(Document doc, String symbol, LocalDateTime fetchedAt) throws IOException {
+        Element priceElement = doc.selectFirst("div[data-last-price]");
+        if (priceElement == null) {
             throw new IOException("Stock not found: " + symbol);
         }
 
         double price = Double.parseDouble(priceElement.attr("data-last-price"));
-        String change = extractPriceChange(doc);
-        
-        updatePriceHistory(price);
-        
-        return new StockData(price, change);
+        double previousClose = Double.NaN;
+        double dayLow = Double.NaN;
+        double dayHigh = Double.NaN;
+        long volume = -1;
+        long avgVolume = -1;
+        double marketCap = Double.NaN;
+
+        for (Element row : doc.select(STAT_ROW_SELECTOR)) {
+            Element label = row.selectFirst(STAT_LABEL_SELECTOR);
+            Element value = row.selectFirst(STAT_VALUE_SELECTOR);
+            if (label == null || value == null) continue;
+
+            String text = value.text();
+            switch (label.text().trim().toLowerCase(Locale.ROOT)) {
+                case "previous close" -> previousClose = parseNumber(text);
+                case "day range" -> {
+                    int separator = text.indexOf(" - ");
+                    if (separator > 0) {
+                        dayLow = parseNumber(text.substring(0, separator));
+                        dayHigh = parseNumber(text.substring(separator + 3));
+                    }
+                }
+                case "volume" -> volume = parseVolume(text);
+                case "avg volume" -> avgVolume = parseVolume(text);
+                case "market cap" -> marketCap = parseAbbreviated(text);
+                default -> { }
+            }
+        }
+
+        double change = Double.NaN;
+        double changePercent = Double.NaN;
+        if (!Double.isNaN(previousClose) && previousClose != 0) {
+            change = price - previousClose;
+            changePercent = change / previousClose * 100;
+        } else {
+            Element changeElement = doc.selectFirst("div.YMlKec.vpf-qc");
+            Element percentElement = doc.selectFirst("div.JwB6zf.vpf-qc");
+            if (changeElement != null && percentElement != null) {
+                change = parseNumber(changeElement.text());
+                changePercent = parseNumber(percentElement.text());
+            }
+        }
+
+        return new StockData(price, change, changePercent, previousClose,
+            dayLow, dayHigh, volume, avgVolume, marketCap, fetchedAt);
     }
 
-    private String extractPriceChange(Document doc) {
-        Elements changeElements = doc.select("div.YMlKec.vpf-qc");
-        Elements percentElements = doc.select("div.JwB6zf.vpf-qc");
-        
-        if (!changeElements.isEmpty() && !percentElements.isEmpty()) {
-            return Objects.requireNonNull(changeElements.first()).text() +
-                   " (" + Objects.requireNonNull(percentElements.first()).text() + ")";
+    // Parses values such as "Rp 9,750.00" or "-0.26%", ignoring currency symbols and grouping
+    private static double parseNumber(String text) {
+        StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '.') {
+                digits.append(c);
+            } else if ((c == '-' || c == '+' || c == '\u2212') && digits.isEmpty()) {
+                if (c != '+') digits.append('-');
+            }
+        }
+        try {
+            return Double.parseDouble(digits.toString());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static long parseVolume(String text) {
+        double parsed = parseAbbreviated(text);
+        return Double.isNaN(parsed) ? -1 : Math.round(parsed);
+    }
+
+    // Parses abbreviated amounts such as "86.18M" or "1.19T IDR"
+    private static double parseAbbreviated(String text) {
+        double value = parseNumber(text);
+        if (Double.isNaN(value)) return value;
+
+        boolean seenDigit = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isDigit(c)) {
+                seenDigit = true;
+                continue;
+            }
+            if (!seenDigit || c == '.' || c == ',' || c == ' ') continue;
+            return switch (Character.toUpperCase(c)) {
+                case 'K' -> value * 1e3;
+                case 'M' -> value * 1e6;
+                case 'B' -> value * 1e9;
+                case 'T' -> value * 1e12;
+                default -> value;
+            };
         }
-        return "";
+        return value;
     }
 
-    public void updatePriceHistory(double price) {
+    /**
+     * Records a fetched tick in the chart history. Not thread-safe; the feed
+     * pipeline only calls this from its render stage.
+     */
+    public void updatePriceHistory(StockData stockData) {
+        double price = stockData.getPrice();
         if (!hasRealData && priceHistory.size() >= 2) {
             priceHistory.clear();
             timeHistory.clear();
@@ -69,7 +162,7 @@ public class StockDataService {
         }
 
         priceHistory.add(price);
-        timeHistory.add(LocalDateTime.now());
+        timeHistory.add(stockData.getFetchedAt());
         if (priceHistory.size() > MAX_HISTORY_SIZE) {
             priceHistory.removeFirst();
             timeHistory.removeFirst();
@@ -83,7 +176,7 @@ public class StockDataService {
     }
 
     public String formatCurrency(double amount) {
-        return NumberFormat.getInstance(Locale.of("id", "ID")).format(amount);
+        return FormatUtil.formatIdr(amount);
     }
 
     public List<Double> getPriceHistory() {
@@ -13,6 +13,7 @@ public class DisplayUtil {
     // Terminal Control Constants
     public static final String CLEAR_LINE = "\u001B[2K";
     public static final String CURSOR_HOME = "\u001B[H";
+    public static final String CLEAR_SCREEN = "\033[H\033[2J";
 
     private static final Random random = new Random();
 
@@ -20,9 +21,13 @@ public class DisplayUtil {
         return noColor ? text : color + text + RESET;
     }
 
-    public static void clearScreen() {
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
+    // Buffer variants of color() for writing a colored span without building the text first
+    public static StringBuilder beginColor(StringBuilder buffer, String color, boolean noColor) {
+        return noColor ? buffer : buffer.append(color);
+    }
+
+    public static StringBuilder endColor(StringBuilder buffer, boolean noColor) {
+        return noColor ? buffer : buffer.append(RESET);
     }
 
     public static String generateRandomColor() {
@@ -0,0 +1,152 @@
+package com.riyuner.util;
+
+import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Cached, thread-safe formatters for the per-frame display path. The fast
+ * paths produce exactly the same text as the JDK formatters they replace and
+ * fall back to them for values they do not cover.
+ */
+public class FormatUtil {
+    // DateTimeFormatter is immutable and safe to share across threads
+    public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    public static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private static final Locale INDONESIA = Locale.of("id", "ID");
+
+    // Fast-path bound: below 2^52 a double's fractional part (abs - floor) is
+    // computed exactly, and a whole value's long digits are exactly what
+    // DecimalFormat prints for it, so both fast paths match the JDK output
+    private static final double EXACT_LIMIT = 1L << 52;
+
+    // NumberFormat is not thread-safe, so each thread keeps its own instance
+    private static final ThreadLocal<NumberFormat> IDR_FORMAT =
+        ThreadLocal.withInitial(() -> NumberFormat.getInstance(INDONESIA));
+    private static final ThreadLocal<NumberFormat> DECIMAL_FORMAT = ThreadLocal.withInitial(() -> {
+        NumberFormat format = NumberFormat.getInstance(INDONESIA);
+        format.setMinimumFractionDigits(2);
+        format.setMaximumFractionDigits(2);
+        return format;
+    });
+
+    private FormatUtil() {
+    }
+
+    /**
+     * Same output as {@code NumberFormat.getInstance(Locale.of("id", "ID")).format(amount)}.
+     */
+    public static String formatIdr(double amount) {
+        if (isWholeNumber(amount)) {
+            return appendIdr(new StringBuilder(24), amount).toString();
+        }
+        return IDR_FORMAT.get().format(amount);
+    }
+
+    /**
+     * Appends {@code amount} as {@link #formatIdr(double)} would, writing whole
+     * numbers straight into the buffer without intermediate strings.
+     */
+    public static StringBuilder appendIdr(StringBuilder buffer, double amount) {
+        if (!isWholeNumber(amount)) {
+            return buffer.append(IDR_FORMAT.get().format(amount));
+        }
+
+        long value = (long) amount;
+        if (value < 0) {
+            buffer.append('-');
+            value = -value;
+        }
+        appendGrouped(buffer, value);
+        return buffer;
+    }
+
+    /**
+     * Appends an abbreviated amount such as "86,18M" or "1,19T"; amounts below
+     * a thousand are written as {@link #appendIdr(StringBuilder, double)} would.
+     */
+    public static StringBuilder appendCompact(StringBuilder buffer, double amount) {
+        double abs = Math.abs(amount);
+        if (abs >= 1e12) return buffer.append(formatDecimal(amount / 1e12)).append('T');
+        if (abs >= 1e9) return buffer.append(formatDecimal(amount / 1e9)).append('B');
+        if (abs >= 1e6) return buffer.append(formatDecimal(amount / 1e6)).append('M');
+        if (abs >= 1e3) return buffer.append(formatDecimal(amount / 1e3)).append('K');
+        return appendIdr(buffer, amount);
+    }
+
+    /**
+     * Id-ID formatted number with exactly two fraction digits, e.g. "0,26".
+     */
+    public static String formatDecimal(double value) {
+        return DECIMAL_FORMAT.get().format(value);
+    }
+
+    /**
+     * Appends {@code String.format("%" + width + "s", String.format("%.0f", value))}.
+     */
+    public static StringBuilder appendRounded(StringBuilder buffer, double value, int width) {
+        if (Double.isNaN(value) || Math.abs(value) >= EXACT_LIMIT) {
+            return appendPadded(buffer, String.format("%.0f", value), width);
+        }
+
+        // %.0f rounds half away from zero; x - floor(x) is exact below 2^52
+        boolean negative = value < 0 || (value == 0 && 1 / value < 0);
+        double abs = Math.abs(value);
+        double floor = Math.floor(abs);
+        long rounded = (long) floor + (abs - floor >= 0.5 ? 1 : 0);
+
+        int length = digitCount(rounded) + (negative ? 1 : 0);
+        padLeft(buffer, width - length);
+        if (negative) buffer.append('-');
+        return buffer.append(rounded);
+    }
+
+    /**
+     * Appends {@code text} right-aligned in {@code width} columns, like {@code %Ns}.
+     */
+    public static StringBuilder appendPadded(StringBuilder buffer, String text, int width) {
+        padLeft(buffer, width - text.length());
+        return buffer.append(text);
+    }
+
+    /**
+     * Appends {@code text} left-aligned in {@code width} columns, like {@code %-Ns}.
+     */
+    public static StringBuilder appendPaddedRight(StringBuilder buffer, String text, int width) {
+        buffer.append(text);
+        padLeft(buffer, width - text.length());
+        return buffer;
+    }
+
+    private static boolean isWholeNumber(double amount) {
+        // -0.0 is excluded because NumberFormat renders it as "-0"
+        return Math.abs(amount) < EXACT_LIMIT && amount == Math.rint(amount)
+            && !(amount == 0 && 1 / amount < 0);
+    }
+
+    private static void appendGrouped(StringBuilder buffer, long value) {
+        int digits = digitCount(value);
+        int start = buffer.length();
+        buffer.append(value);
+        // Insert '.' group separators from the right
+        for (int i = digits - 3; i > 0; i -= 3) {
+            buffer.insert(start + i, '.');
+        }
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static void padLeft(StringBuilder buffer, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.append(' ');
+        }
+    }
+}
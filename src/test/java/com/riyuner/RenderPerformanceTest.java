@@ -0,0 +1,105 @@
+package com.riyuner;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.riyuner.harness.Fixtures;
+import com.riyuner.harness.FrameRenderer;
+import com.riyuner.harness.PerformanceBaseline;
+import com.riyuner.model.StockData;
+
+/**
+ * Fails the build when rendering a full detailed frame allocates more than the
+ * stored baseline allows. Render time is only checked in the opt-in
+ * {@code perf} profile, relative to a reference workload timed in the same run.
+ */
+class RenderPerformanceTest {
+    private static final int WARMUP_FRAMES = 20_000;
+    private static final int MEASURED_FRAMES = 20_000;
+    private static final int TIMING_ROUNDS = 11;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private FrameRenderer renderer;
+    private StockData latest;
+    private final StringBuilder display = new StringBuilder(8192);
+
+    @BeforeEach
+    void renderSession() {
+        renderer = new FrameRenderer(true, false);
+        List<StockData> ticks = Fixtures.sessionTicks();
+        for (StockData tick : ticks) {
+            renderer.accept(tick);
+        }
+        latest = ticks.getLast();
+        renderFrames(WARMUP_FRAMES);
+    }
+
+    @Test
+    void detailedFrameAllocationStaysWithinBaseline() {
+        PerformanceBaseline baseline = PerformanceBaseline.load();
+        assumeTrue(PerformanceBaseline.updating() || baseline.recordedOnCurrentJdk(),
+            "allocation baseline was recorded on another JDK release");
+
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        renderFrames(MEASURED_FRAMES);
+        long allocatedPerFrame = (THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore) / MEASURED_FRAMES;
+
+        baseline.check("frame.allocatedBytes", allocatedPerFrame);
+    }
+
+    @Test
+    void detailedFrameTimeStaysWithinBaseline() {
+        assumeTrue(Boolean.getBoolean("perf.timing"), "render timing runs only in the perf profile");
+
+        StringBuilder reference = new StringBuilder(8192);
+        NumberFormat idr = NumberFormat.getInstance(Locale.of("id", "ID"));
+        referenceWorkload(reference, idr, WARMUP_FRAMES);
+
+        // Interleaved rounds see the same machine load; the median ratio drops GC and scheduler outliers
+        long[] ratios = new long[TIMING_ROUNDS];
+        for (int round = 0; round < TIMING_ROUNDS; round++) {
+            long start = System.nanoTime();
+            renderFrames(MEASURED_FRAMES);
+            long frame = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            referenceWorkload(reference, idr, MEASURED_FRAMES);
+            long referenceTime = System.nanoTime() - start;
+
+            ratios[round] = frame * 100 / referenceTime;
+        }
+        Arrays.sort(ratios);
+
+        PerformanceBaseline.load().check("frame.renderRatioPercent", ratios[TIMING_ROUNDS / 2]);
+    }
+
+    private void renderFrames(int frames) {
+        for (int i = 0; i < frames; i++) {
+            display.setLength(0);
+            renderer.render(display, latest);
+        }
+    }
+
+    // The JDK formatting a detailed frame used to do: ten chart labels and six prices
+    private static void referenceWorkload(StringBuilder buffer, NumberFormat idr, int frames) {
+        for (int i = 0; i < frames; i++) {
+            buffer.setLength(0);
+            for (int row = 0; row < 10; row++) {
+                buffer.append(String.format("%8s |", String.format("%.0f", 9650 + row * 16.67)));
+            }
+            for (int price = 0; price < 6; price++) {
+                buffer.append(idr.format(9650 + price * 25));
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.riyuner.harness;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import com.riyuner.model.StockData;
+
+/**
+ * Recorded quote pages and deterministic tick sequences shared by the tests.
+ */
+public class Fixtures {
+    public static final LocalDateTime SESSION_START = LocalDateTime.of(2026, 1, 12, 9, 0, 0);
+    public static final int TICK_SECONDS = 5;
+
+    // Fixed holiday calendar for market-state rendering: Isra Mi'raj 2026 (a Friday)
+    public static final Set<LocalDate> HOLIDAYS = Set.of(LocalDate.of(2026, 1, 16));
+
+    // One 30-tick session of BBCA-like prices, moving in 25 rupiah steps
+    private static final double[] SESSION_PRICES = {
+        9700, 9725, 9725, 9750, 9700, 9675, 9650, 9675, 9700, 9750,
+        9775, 9800, 9775, 9750, 9750, 9725, 9700, 9725, 9750, 9775,
+        9800, 9800, 9775, 9750, 9775, 9800, 9775, 9750, 9750, 9775
+    };
+
+    private Fixtures() {
+    }
+
+    public static Document page(String name) {
+        String resource = "/pages/" + name;
+        try (InputStream in = Fixtures.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Missing page fixture: " + resource);
+            }
+            String html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return Jsoup.parse(html, "https://www.google.com/finance/quote/");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ticks for a session with the fields of the recorded BBCA page, one every
+     * {@link #TICK_SECONDS} seconds from {@link #SESSION_START}.
+     */
+    public static List<StockData> sessionTicks() {
+        List<StockData> ticks = new ArrayList<>(SESSION_PRICES.length);
+        double previousClose = 9700;
+        double dayLow = Double.MAX_VALUE;
+        double dayHigh = 0;
+        for (int i = 0; i < SESSION_PRICES.length; i++) {
+            double price = SESSION_PRICES[i];
+            dayLow = Math.min(dayLow, price);
+            dayHigh = Math.max(dayHigh, price);
+            double change = price - previousClose;
+            ticks.add(new StockData(price, change, change / previousClose * 100, previousClose,
+                dayLow, dayHigh, -1, 86_180_000L + 125_000L * i, price * 123_275_000L,
+                SESSION_START.plusSeconds((long) TICK_SECONDS * i)));
+        }
+        return ticks;
+    }
+}
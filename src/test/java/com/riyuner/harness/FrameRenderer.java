@@ -0,0 +1,64 @@
+package com.riyuner.harness;
+
+import java.time.LocalDateTime;
+
+import com.riyuner.model.StockData;
+import com.riyuner.service.ChartService;
+import com.riyuner.service.DisplayService;
+import com.riyuner.service.MarketStateService;
+import com.riyuner.service.StockDataService;
+
+/**
+ * Wires the services the way {@code IdxStockCommand} does and renders whole
+ * frames, header included, against a settable clock and a fixed holiday
+ * calendar.
+ */
+public class FrameRenderer {
+    public static final int TERMINAL_WIDTH = 80;
+    public static final String STOCK_COLOR = "\u001B[38;2;120;200;160m";
+    public static final String SYMBOL = "BBCA:IDX";
+
+    private final SettableClock clock = new SettableClock(Fixtures.SESSION_START);
+    private final StockDataService stockDataService;
+    private final DisplayService displayService;
+    private final boolean detailed;
+
+    public FrameRenderer(boolean detailed, boolean noColor) {
+        this.detailed = detailed;
+        this.stockDataService = new StockDataService(noColor);
+        MarketStateService marketStateService = new MarketStateService(noColor, clock);
+        marketStateService.useHolidays(Fixtures.HOLIDAYS);
+        ChartService chartService = new ChartService(TERMINAL_WIDTH, STOCK_COLOR, noColor);
+        this.displayService = new DisplayService(TERMINAL_WIDTH, STOCK_COLOR, noColor,
+            marketStateService, stockDataService, chartService, clock);
+    }
+
+    public void accept(StockData tick) {
+        stockDataService.updatePriceHistory(tick);
+    }
+
+    /**
+     * Renders a frame as drawn at the moment {@code latest} was fetched.
+     */
+    public void render(StringBuilder display, StockData latest) {
+        renderAt(display, latest.getFetchedAt(), latest);
+    }
+
+    public String render(StockData latest) {
+        StringBuilder display = new StringBuilder();
+        render(display, latest);
+        return display.toString();
+    }
+
+    public String renderAt(LocalDateTime now, StockData latest) {
+        StringBuilder display = new StringBuilder();
+        renderAt(display, now, latest);
+        return display.toString();
+    }
+
+    private void renderAt(StringBuilder display, LocalDateTime now, StockData latest) {
+        clock.set(now);
+        displayService.updateDisplay(display, SYMBOL);
+        displayService.appendStockData(display, latest, detailed);
+    }
+}
@@ -0,0 +1,47 @@
+package com.riyuner.harness;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * Compares rendered output against files under {@code src/test/resources/golden}.
+ * ANSI escape sequences are stripped before comparing, since colors are random
+ * per run. Run with {@code -Dgolden.update=true} to rewrite the files after an
+ * intended output change.
+ */
+public class GoldenFiles {
+    private static final Path GOLDEN_DIR = Path.of("src", "test", "resources", "golden");
+    private static final Pattern ANSI_ESCAPE = Pattern.compile("\u001B\\[[0-9;?]*[A-Za-z]");
+
+    private GoldenFiles() {
+    }
+
+    public static String normalize(String rendered) {
+        return ANSI_ESCAPE.matcher(rendered).replaceAll("");
+    }
+
+    public static void assertMatches(String name, String rendered) {
+        Path file = GOLDEN_DIR.resolve(name);
+        String actual = normalize(rendered);
+        try {
+            if (Boolean.getBoolean("golden.update")) {
+                Files.createDirectories(GOLDEN_DIR);
+                Files.writeString(file, actual, StandardCharsets.UTF_8);
+                return;
+            }
+            if (!Files.exists(file)) {
+                fail("Missing golden file " + file + "; run with -Dgolden.update=true to create it");
+            }
+            assertEquals(Files.readString(file, StandardCharsets.UTF_8), actual, "Rendered output differs from " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
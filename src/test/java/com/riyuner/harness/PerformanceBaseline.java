@@ -0,0 +1,98 @@
+package com.riyuner.harness;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Per-frame cost limits stored in {@code src/test/resources/perf/render-baseline.properties}.
+ * A measurement fails when it exceeds its baseline by more than the configured
+ * tolerance. Run with {@code -Dperf.update=true} to record new baselines after
+ * an intended change; comments in the file are kept.
+ */
+public class PerformanceBaseline {
+    private static final Path BASELINE_FILE = Path.of("src", "test", "resources", "perf", "render-baseline.properties");
+    private static final String JDK_KEY = "jdk.feature";
+
+    private final Properties properties = new Properties();
+
+    private PerformanceBaseline() {
+    }
+
+    public static PerformanceBaseline load() {
+        PerformanceBaseline baseline = new PerformanceBaseline();
+        if (Files.exists(BASELINE_FILE)) {
+            try (Reader reader = Files.newBufferedReader(BASELINE_FILE, StandardCharsets.UTF_8)) {
+                baseline.properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return baseline;
+    }
+
+    public static boolean updating() {
+        return Boolean.getBoolean("perf.update");
+    }
+
+    /**
+     * Whether the baselines were recorded on the running JDK feature release.
+     * Allocation depends on the JIT's escape analysis and on JDK library
+     * internals, so numbers from another release are not comparable.
+     */
+    public boolean recordedOnCurrentJdk() {
+        return Integer.toString(Runtime.version().feature()).equals(properties.getProperty(JDK_KEY));
+    }
+
+    /**
+     * Checks {@code measured} against the baseline {@code key}, allowing it to
+     * grow by the fraction stored under {@code key + ".tolerance"}.
+     */
+    public void check(String key, long measured) {
+        if (updating()) {
+            update(JDK_KEY, Integer.toString(Runtime.version().feature()));
+            update(key, Long.toString(measured));
+            return;
+        }
+
+        String stored = properties.getProperty(key);
+        assertTrue(stored != null, "No baseline for " + key + " in " + BASELINE_FILE
+            + "; run with -Dperf.update=true to record one");
+
+        long baseline = Long.parseLong(stored);
+        double tolerance = Double.parseDouble(properties.getProperty(key + ".tolerance", "0.25"));
+        long limit = (long) (baseline * (1 + tolerance));
+        assertTrue(measured <= limit, key + " regressed: measured " + measured
+            + ", baseline " + baseline + ", limit " + limit);
+    }
+
+    // Rewrites only the line for key, so the documented assumptions in the file survive
+    private void update(String key, String value) {
+        properties.setProperty(key, value);
+        try {
+            List<String> lines = Files.exists(BASELINE_FILE)
+                ? new ArrayList<>(Files.readAllLines(BASELINE_FILE, StandardCharsets.UTF_8))
+                : new ArrayList<>();
+            String entry = key + "=" + value;
+            boolean replaced = false;
+            for (int i = 0; i < lines.size(); i++) {
+                if (lines.get(i).startsWith(key + "=")) {
+                    lines.set(i, entry);
+                    replaced = true;
+                }
+            }
+            if (!replaced) lines.add(entry);
+            Files.write(BASELINE_FILE, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.riyuner.harness;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Clock pinned to a chosen local time in the exchange's time zone, so header
+ * timestamps and market-state countdowns render deterministically.
+ */
+public class SettableClock extends Clock {
+    public static final ZoneId JAKARTA = ZoneId.of("Asia/Jakarta");
+
+    private Instant instant;
+
+    public SettableClock(LocalDateTime now) {
+        set(now);
+    }
+
+    public void set(LocalDateTime now) {
+        this.instant = now.atZone(JAKARTA).toInstant();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return JAKARTA;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("SettableClock is fixed to " + JAKARTA);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,52 @@
+package com.riyuner.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.riyuner.harness.Fixtures;
+import com.riyuner.harness.FrameRenderer;
+import com.riyuner.harness.GoldenFiles;
+import com.riyuner.model.StockData;
+
+class ChartServiceTest {
+
+    @Test
+    void rendersSessionChart() {
+        List<Double> prices = new ArrayList<>();
+        List<LocalDateTime> times = new ArrayList<>();
+        for (StockData tick : Fixtures.sessionTicks()) {
+            prices.add(tick.getPrice());
+            times.add(tick.getFetchedAt());
+        }
+
+        ChartService colored = new ChartService(FrameRenderer.TERMINAL_WIDTH, FrameRenderer.STOCK_COLOR, false);
+        ChartService plain = new ChartService(FrameRenderer.TERMINAL_WIDTH, FrameRenderer.STOCK_COLOR, true);
+        String chart = colored.generateChart(prices, times);
+
+        GoldenFiles.assertMatches("chart-session.txt", chart);
+        assertEquals(GoldenFiles.normalize(plain.generateChart(prices, times)), GoldenFiles.normalize(chart));
+    }
+
+    @Test
+    void rendersFlatPricesOnBottomRow() {
+        List<Double> prices = List.of(9700.0, 9700.0, 9700.0);
+        List<LocalDateTime> times = List.of(Fixtures.SESSION_START,
+            Fixtures.SESSION_START.plusSeconds(5), Fixtures.SESSION_START.plusSeconds(10));
+
+        ChartService chartService = new ChartService(FrameRenderer.TERMINAL_WIDTH, FrameRenderer.STOCK_COLOR, true);
+
+        GoldenFiles.assertMatches("chart-flat.txt", chartService.generateChart(prices, times));
+    }
+
+    @Test
+    void waitsForTwoPoints() {
+        ChartService chartService = new ChartService(FrameRenderer.TERMINAL_WIDTH, FrameRenderer.STOCK_COLOR, true);
+
+        assertEquals("Collecting data...", chartService.generateChart(List.of(9700.0), List.of(Fixtures.SESSION_START)));
+    }
+}
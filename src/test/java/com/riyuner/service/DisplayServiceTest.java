@@ -0,0 +1,78 @@
+package com.riyuner.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.riyuner.harness.Fixtures;
+import com.riyuner.harness.FrameRenderer;
+import com.riyuner.harness.GoldenFiles;
+import com.riyuner.model.StockData;
+
+class DisplayServiceTest {
+
+    @Test
+    void rendersEveryFrameOfSessionInDetailedView() {
+        FrameRenderer colored = new FrameRenderer(true, false);
+        FrameRenderer plain = new FrameRenderer(true, true);
+
+        StringBuilder frames = new StringBuilder();
+        List<StockData> ticks = Fixtures.sessionTicks();
+        for (int i = 0; i < ticks.size(); i++) {
+            StockData tick = ticks.get(i);
+            colored.accept(tick);
+            plain.accept(tick);
+
+            String frame = colored.render(tick);
+            assertEquals(GoldenFiles.normalize(plain.render(tick)), GoldenFiles.normalize(frame), "frame " + i);
+            frames.append("--- frame ").append(i).append(" ---\n").append(frame);
+        }
+
+        GoldenFiles.assertMatches("frames-session-detailed.txt", frames.toString());
+    }
+
+    @Test
+    void rendersHeaderForEachMarketState() throws IOException {
+        StockData data = new StockDataService(true)
+            .parseStockData(Fixtures.page("BBCA_IDX.html"), "BBCA:IDX", Fixtures.SESSION_START);
+        List<LocalDateTime> moments = List.of(
+            LocalDateTime.of(2026, 1, 12, 10, 15, 30),  // Monday, open
+            LocalDateTime.of(2026, 1, 13, 7, 20, 0),    // Tuesday, before open
+            LocalDateTime.of(2026, 1, 15, 15, 45, 0),   // Thursday after close, next day is a holiday
+            LocalDateTime.of(2026, 1, 16, 11, 0, 0),    // Friday holiday
+            LocalDateTime.of(2026, 1, 17, 12, 0, 0));   // Saturday
+
+        StringBuilder frames = new StringBuilder();
+        for (LocalDateTime moment : moments) {
+            FrameRenderer renderer = new FrameRenderer(false, false);
+            renderer.accept(data);
+            frames.append("--- ").append(moment).append(" ---\n").append(renderer.renderAt(moment, data));
+        }
+
+        GoldenFiles.assertMatches("frames-market-states.txt", frames.toString());
+    }
+
+    @Test
+    void rendersRecordedPageInDetailedView() throws IOException {
+        FrameRenderer renderer = new FrameRenderer(true, false);
+        StockData data = new StockDataService(true)
+            .parseStockData(Fixtures.page("BBCA_IDX.html"), "BBCA:IDX", Fixtures.SESSION_START);
+        renderer.accept(data);
+
+        GoldenFiles.assertMatches("frame-bbca-detailed.txt", renderer.render(data));
+    }
+
+    @Test
+    void rendersRecordedPageWithoutStatistics() throws IOException {
+        FrameRenderer renderer = new FrameRenderer(true, false);
+        StockData data = new StockDataService(true)
+            .parseStockData(Fixtures.page("TLKM_IDX_no_stats.html"), "TLKM:IDX", Fixtures.SESSION_START);
+        renderer.accept(data);
+
+        GoldenFiles.assertMatches("frame-tlkm-no-stats.txt", renderer.render(data));
+    }
+}
@@ -0,0 +1,132 @@
+package com.riyuner.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.riyuner.harness.Fixtures;
+import com.riyuner.model.StockData;
+
+class FeedPipelineTest {
+
+    @Test
+    void dropsOldestTicksWhenQueueIsFull() {
+        List<StockData> handled = new ArrayList<>();
+        List<StockData> rendered = new ArrayList<>();
+        FeedPipeline pipeline = new FeedPipeline(() -> null, handled::add, rendered::add, e -> { });
+
+        List<StockData> ticks = Fixtures.sessionTicks().subList(0, 20);
+        ticks.forEach(pipeline::publish);
+        pipeline.renderFrame();
+
+        assertEquals(ticks.subList(4, 20), handled);
+        assertEquals(1, rendered.size());
+        assertSame(ticks.getLast(), rendered.getFirst());
+    }
+
+    @Test
+    void recoversAfterFetchAndRenderErrors() {
+        StockData tick = Fixtures.sessionTicks().getFirst();
+        AtomicInteger fetches = new AtomicInteger();
+        List<StockData> rendered = new ArrayList<>();
+        List<Exception> errors = new ArrayList<>();
+
+        FeedPipeline pipeline = new FeedPipeline(
+            () -> {
+                if (fetches.incrementAndGet() == 1) throw new IllegalStateException("fetch failed");
+                return tick;
+            },
+            t -> { },
+            latest -> {
+                if (latest == null) throw new IllegalStateException("render failed");
+                rendered.add(latest);
+            },
+            errors::add);
+
+        pipeline.fetchTick();
+        pipeline.renderFrame();
+        pipeline.fetchTick();
+        pipeline.renderFrame();
+
+        assertEquals(List.of("fetch failed", "render failed"),
+            errors.stream().map(Exception::getMessage).toList());
+        assertEquals(List.of(tick), rendered);
+    }
+
+    @Test
+    void scheduledStagesKeepRunningWhileFailing() throws InterruptedException {
+        // Each stage fails on every run; both must keep being rescheduled
+        CountDownLatch fetchErrors = new CountDownLatch(3);
+        CountDownLatch renderErrors = new CountDownLatch(3);
+
+        FeedPipeline pipeline = new FeedPipeline(
+            () -> {
+                throw new IllegalStateException("fetch failed");
+            },
+            t -> { },
+            latest -> {
+                throw new IllegalStateException("render failed");
+            },
+            e -> (e.getMessage().startsWith("fetch") ? fetchErrors : renderErrors).countDown());
+
+        try (pipeline) {
+            pipeline.start(10, 10);
+            assertTrue(fetchErrors.await(5, TimeUnit.SECONDS), "fetch stage stopped after an error");
+            assertTrue(renderErrors.await(5, TimeUnit.SECONDS), "render stage stopped after an error");
+        }
+    }
+
+    @Test
+    void reportsBackgroundTaskFailuresWithoutFetchingQuotes() {
+        List<Exception> errors = new ArrayList<>();
+        AtomicInteger fetches = new AtomicInteger();
+        FeedPipeline pipeline = new FeedPipeline(() -> {
+            fetches.incrementAndGet();
+            return null;
+        }, t -> { }, latest -> { }, errors::add);
+
+        pipeline.runBackground(() -> {
+            throw new IOException("holiday API down");
+        });
+
+        assertEquals(1, errors.size());
+        assertEquals("holiday API down", errors.getFirst().getMessage());
+        assertEquals(0, fetches.get());
+    }
+
+    @Test
+    void closeIsIdempotentAndStopsRendering() throws InterruptedException {
+        AtomicInteger frames = new AtomicInteger();
+        FeedPipeline pipeline = new FeedPipeline(() -> null, t -> { }, latest -> frames.incrementAndGet(), e -> { });
+        pipeline.start(1000, 5);
+        while (frames.get() == 0) {
+            Thread.sleep(5);
+        }
+
+        pipeline.close();
+        pipeline.close();
+        pipeline.awaitTermination();
+
+        int framesAfterClose = frames.get();
+        Thread.sleep(50);
+        assertEquals(framesAfterClose, frames.get());
+    }
+
+    @Test
+    void closeBeforeStartReleasesWaiters() throws InterruptedException {
+        FeedPipeline pipeline = new FeedPipeline(() -> null, t -> { }, latest -> { }, e -> { });
+
+        pipeline.close();
+
+        pipeline.awaitTermination();
+    }
+}
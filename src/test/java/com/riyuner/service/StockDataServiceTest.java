@@ -0,0 +1,98 @@
+package com.riyuner.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import com.riyuner.harness.Fixtures;
+import com.riyuner.model.StockData;
+
+class StockDataServiceTest {
+    private final StockDataService service = new StockDataService(true);
+
+    @Test
+    void parsesQuoteAndKeyStatisticsFromRecordedPage() throws IOException {
+        StockData data = service.parseStockData(Fixtures.page("BBCA_IDX.html"), "BBCA:IDX", Fixtures.SESSION_START);
+
+        assertEquals(9775, data.getPrice());
+        assertEquals(9700, data.getPreviousClose());
+        assertEquals(75, data.getChange(), 1e-9);
+        assertEquals(0.7732, data.getChangePercent(), 1e-4);
+        assertEquals(9650, data.getDayLow());
+        assertEquals(9800, data.getDayHigh());
+        assertEquals(-1, data.getVolume());
+        assertEquals(86_180_000L, data.getAvgVolume());
+        assertEquals(1.19e12, data.getMarketCap(), 1);
+        assertEquals(Fixtures.SESSION_START, data.getFetchedAt());
+    }
+
+    @Test
+    void fallsBackToChangeElementsWithoutStatistics() throws IOException {
+        StockData data = service.parseStockData(Fixtures.page("TLKM_IDX_no_stats.html"), "TLKM:IDX", Fixtures.SESSION_START);
+
+        assertEquals(2730, data.getPrice());
+        assertTrue(data.hasChange());
+        assertEquals(-40, data.getChange(), 1e-9);
+        assertEquals(-1.44, data.getChangePercent(), 1e-9);
+        assertTrue(Double.isNaN(data.getPreviousClose()));
+        assertFalse(data.hasDayRange());
+        assertEquals(-1, data.getVolume());
+        assertEquals(-1, data.getAvgVolume());
+        assertTrue(Double.isNaN(data.getMarketCap()));
+    }
+
+    @Test
+    void keepsVolumeSeparateFromAverageVolume() throws IOException {
+        Document doc = Jsoup.parse("""
+            <div data-last-price="9775"></div>
+            <div class="gyFHrc"><div class="mfs7Fc">Avg Volume</div><div class="P6K39c">86.18M</div></div>
+            <div class="gyFHrc"><div class="mfs7Fc">Volume</div><div class="P6K39c">12.5M</div></div>
+            """);
+
+        StockData data = service.parseStockData(doc, "BBCA:IDX", Fixtures.SESSION_START);
+
+        assertEquals(12_500_000L, data.getVolume());
+        assertEquals(86_180_000L, data.getAvgVolume());
+    }
+
+    @Test
+    void treatsUnparseablePercentAsMissingChange() throws IOException {
+        Document doc = Jsoup.parse("""
+            <div data-last-price="2730"></div>
+            <div class="YMlKec vpf-qc">-Rp 40.00</div>
+            <div class="JwB6zf vpf-qc">n/a</div>
+            """);
+
+        StockData data = service.parseStockData(doc, "TLKM:IDX", Fixtures.SESSION_START);
+
+        assertFalse(data.hasChange());
+    }
+
+    @Test
+    void rejectsPageWithoutPrice() {
+        IOException e = assertThrows(IOException.class, () ->
+            service.parseStockData(Fixtures.page("XXXX_IDX_not_found.html"), "XXXX:IDX", Fixtures.SESSION_START));
+        assertEquals("Stock not found: XXXX:IDX", e.getMessage());
+    }
+
+    @Test
+    void keepsOnlyTheLastThirtyTicks() {
+        for (StockData tick : Fixtures.sessionTicks()) {
+            service.updatePriceHistory(tick);
+        }
+        for (StockData tick : Fixtures.sessionTicks().subList(0, 5)) {
+            service.updatePriceHistory(tick);
+        }
+
+        assertEquals(30, service.getPriceHistory().size());
+        assertEquals(30, service.getTimeHistory().size());
+        assertEquals(9700, service.getPriceHistory().getLast());
+    }
+}
@@ -0,0 +1,66 @@
+package com.riyuner.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class FormatUtilTest {
+    private static final double[] EDGE_VALUES = {
+        0, -0.0, 1, -1, 999, 1000, 9775, 1_234_567, -1_234_567, 0.5, 1.5, 2.5, -2.5,
+        0.49999999999999994, 123.4565, 1e15, 1e16, 4503599627370495.0, 9.2e18, Double.NaN
+    };
+
+    @Test
+    void idrMatchesIndonesianNumberFormat() {
+        NumberFormat expected = NumberFormat.getInstance(Locale.of("id", "ID"));
+        Random random = new Random(42);
+
+        for (double value : EDGE_VALUES) {
+            assertIdr(expected, value);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            assertIdr(expected, random.nextInt(20_000_000));
+            assertIdr(expected, random.nextDouble() * 20_000);
+            assertIdr(expected, -random.nextDouble() * 1e6);
+        }
+    }
+
+    @Test
+    void roundedLabelMatchesStringFormat() {
+        Random random = new Random(42);
+
+        for (double value : EDGE_VALUES) {
+            assertRounded(value);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            assertRounded(9000 + random.nextDouble() * 1000);
+            assertRounded(Math.round(random.nextDouble() * 20_000) / 2.0);
+            assertRounded(-random.nextDouble() * 1e6);
+        }
+    }
+
+    @Test
+    void padsLikeStringFormat() {
+        assertEquals(String.format("%-15s|", "Volume:"),
+            FormatUtil.appendPaddedRight(new StringBuilder(), "Volume:", 15).append('|').toString());
+        assertEquals(String.format("%8s", "12345"),
+            FormatUtil.appendPadded(new StringBuilder(), "12345", 8).toString());
+        assertEquals(String.format("%3s", "123456"),
+            FormatUtil.appendPadded(new StringBuilder(), "123456", 3).toString());
+    }
+
+    private static void assertIdr(NumberFormat expected, double value) {
+        String text = expected.format(value);
+        assertEquals(text, FormatUtil.formatIdr(value), "formatIdr(" + value + ")");
+        assertEquals(text, FormatUtil.appendIdr(new StringBuilder(), value).toString(), "appendIdr(" + value + ")");
+    }
+
+    private static void assertRounded(double value) {
+        assertEquals(String.format("%8s", String.format("%.0f", value)),
+            FormatUtil.appendRounded(new StringBuilder(), value, 8).toString(), "appendRounded(" + value + ")");
+    }
+}